@@ -18,19 +18,35 @@
  */
 package org.apache.maven.yaml;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Named;
+import javax.inject.Singleton;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Parent;
 import org.apache.maven.api.services.Source;
 import org.apache.maven.api.services.Sources;
 import org.apache.maven.api.spi.ModelParser;
@@ -38,9 +54,29 @@ import org.apache.maven.api.spi.ModelParserException;
 import org.yaml.snakeyaml.Yaml;
 
 @Named("yaml")
+@Singleton
 @Priority(1)
 public class YamlModelReader implements ModelParser {
 
+    /**
+     * Option (or system property) enabling the asynchronous prefetch of the parent
+     * <code>pom.yaml</code> pointed at by <code>parent.relativePath</code>.
+     */
+    public static final String PREFETCH_PARENTS = "maven.yaml.prefetchParents";
+
+    private final Executor executor;
+    private final Map<Path, CompletableFuture<Prefetched>> prefetches = new ConcurrentHashMap<>();
+    private final Set<Path> parsed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    public YamlModelReader() {
+        this(null);
+    }
+
+    YamlModelReader(Executor executor) {
+        this.executor = executor;
+    }
+
     @Override
     public Optional<Source> locate(Path path) {
         Path pom = Files.isDirectory(path) ? path.resolve("pom.yaml") : path;
@@ -49,6 +85,43 @@ public class YamlModelReader implements ModelParser {
 
     @Override
     public Model parse(Source source, Map<String, ?> options) throws ModelParserException {
+        if (source.getPath() != null) {
+            Path path = source.getPath().toAbsolutePath().normalize();
+            // files already requested are never prefetched again, as nobody would claim the result
+            parsed.add(path);
+            Model prefetched = awaitPrefetch(path);
+            if (prefetched != null) {
+                return prefetched;
+            }
+        }
+        return load(source, options, generation.get());
+    }
+
+    /**
+     * Cancels all pending parent prefetches and clears the cached results.
+     * Prefetches started by parses still running at that time are discarded as well.
+     */
+    @PreDestroy
+    public void cancelPrefetches() {
+        generation.incrementAndGet();
+        prefetches.values().forEach(prefetch -> prefetch.cancel(false));
+        prefetches.clear();
+        parsed.clear();
+    }
+
+    CompletableFuture<?> pendingPrefetch(Path path) {
+        return prefetches.get(path.toAbsolutePath().normalize());
+    }
+
+    private Model load(Source source, Map<String, ?> options, int generation) throws ModelParserException {
+        Model model = read(source);
+        if (source.getPath() != null && isPrefetchEnabled(options)) {
+            prefetchParent(source.getPath(), model, options, generation);
+        }
+        return model;
+    }
+
+    private Model read(Source source) throws ModelParserException {
         try {
             Yaml yaml = new Yaml();
             Map<String, Object> data;
@@ -66,4 +139,145 @@ public class YamlModelReader implements ModelParser {
             throw new ModelParserException("Unable to parse: " + source.getLocation(), e);
         }
     }
+
+    private Model awaitPrefetch(Path path) throws ModelParserException {
+        CompletableFuture<Prefetched> prefetch = prefetches.get(path);
+        if (prefetch == null) {
+            return null;
+        }
+        // a prefetched model is handed out once, later requests read the file again
+        try {
+            Prefetched prefetched = prefetch.get();
+            if (!prefetched.snapshot().isCurrent(path)) {
+                return null;
+            }
+            if (prefetched.failure() != null) {
+                throw prefetched.failure();
+            }
+            return prefetched.model();
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            throw new ModelParserException("Unable to parse: " + path, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ModelParserException("Interrupted while parsing: " + path, e);
+        } finally {
+            prefetches.remove(path, prefetch);
+        }
+    }
+
+    private void prefetchParent(Path path, Model model, Map<String, ?> options, int generation) {
+        Parent parent = model.getParent();
+        Path dir = path.toAbsolutePath().getParent();
+        if (parent == null || dir == null) {
+            return;
+        }
+        // an empty relativePath explicitly disables the lookup of the parent on the file system
+        String relativePath = parent.getRelativePath() != null ? parent.getRelativePath() : "..";
+        if (relativePath.isEmpty()) {
+            return;
+        }
+        Path parentPath;
+        try {
+            parentPath = locate(dir.resolve(relativePath))
+                    .map(Source::getPath)
+                    .map(p -> p.toAbsolutePath().normalize())
+                    .orElse(null);
+        } catch (InvalidPathException e) {
+            return;
+        }
+        if (parentPath == null
+                || !isYaml(parentPath)
+                || parentPath.equals(path.toAbsolutePath().normalize())
+                || parsed.contains(parentPath)
+                || generation != this.generation.get()) {
+            return;
+        }
+        CompletableFuture<Prefetched> prefetch = new CompletableFuture<>();
+        if (prefetches.putIfAbsent(parentPath, prefetch) != null) {
+            return;
+        }
+        // cancelPrefetches() may have cleared the map before our entry was added
+        if (generation != this.generation.get()) {
+            prefetches.remove(parentPath, prefetch);
+            prefetch.cancel(false);
+            return;
+        }
+        try {
+            executor().execute(() -> runPrefetch(parentPath, prefetch, options, generation));
+        } catch (RejectedExecutionException e) {
+            prefetches.remove(parentPath, prefetch);
+            prefetch.cancel(false);
+        }
+    }
+
+    private void runPrefetch(
+            Path path, CompletableFuture<Prefetched> prefetch, Map<String, ?> options, int generation) {
+        if (prefetch.isDone() || generation != this.generation.get()) {
+            prefetch.cancel(false);
+            return;
+        }
+        Snapshot snapshot;
+        try {
+            snapshot = Snapshot.of(path);
+        } catch (IOException e) {
+            prefetch.cancel(false);
+            return;
+        }
+        try {
+            prefetch.complete(new Prefetched(snapshot, load(Sources.fromPath(path), options, generation), null));
+        } catch (RuntimeException e) {
+            prefetch.complete(new Prefetched(snapshot, null, e));
+        } catch (Error e) {
+            // waiting callers parse the file themselves instead of blocking forever
+            prefetch.cancel(false);
+            throw e;
+        }
+    }
+
+    private Executor executor() {
+        return executor != null ? executor : DefaultExecutor.INSTANCE;
+    }
+
+    private static boolean isPrefetchEnabled(Map<String, ?> options) {
+        Object value = options != null ? options.get(PREFETCH_PARENTS) : null;
+        if (value == null) {
+            return Boolean.getBoolean(PREFETCH_PARENTS);
+        }
+        return value instanceof Boolean b ? b : Boolean.parseBoolean(value.toString());
+    }
+
+    private static boolean isYaml(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(".yaml") || name.endsWith(".yml");
+    }
+
+    /**
+     * File attributes taken right before a prefetched file is read, used to detect later modifications.
+     */
+    private record Snapshot(FileTime lastModified, long size) {
+        static Snapshot of(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new Snapshot(attributes.lastModifiedTime(), attributes.size());
+        }
+
+        boolean isCurrent(Path path) {
+            try {
+                return equals(of(path));
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+
+    private record Prefetched(Snapshot snapshot, Model model, RuntimeException failure) {}
+
+    private static final class DefaultExecutor {
+        static final ExecutorService INSTANCE = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "maven-yaml-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 }
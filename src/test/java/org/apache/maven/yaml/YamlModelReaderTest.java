@@ -25,10 +25,17 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.maven.api.model.Build;
 import org.apache.maven.api.model.Dependency;
@@ -41,12 +48,21 @@ import org.apache.maven.api.model.PluginManagement;
 import org.apache.maven.api.model.Prerequisites;
 import org.apache.maven.api.model.ReportPlugin;
 import org.apache.maven.api.model.Reporting;
+import org.apache.maven.api.services.Sources;
+import org.apache.maven.api.spi.ModelParserException;
 import org.apache.maven.internal.xml.XmlNodeImpl;
 import org.apache.maven.model.v4.MavenStaxWriter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.yaml.snakeyaml.Yaml;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlModelReaderTest {
 
@@ -572,6 +588,200 @@ class YamlModelReaderTest {
         assertModelEquals(expected, actual);
     }
 
+    @Test
+    void testPrefetchParent(@TempDir Path dir) throws Exception {
+        Path parent = writeParentChain(dir, "modelVersion: 4.0.0\nid: org.example:parent:1.0\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        YamlModelReader reader = new YamlModelReader(tasks::add);
+
+        reader.parse(Sources.fromPath(dir.resolve("child/pom.yaml")), prefetch());
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+
+        Model actual = reader.parse(Sources.fromPath(parent), prefetch());
+        // the prefetched model is handed out once
+        assertNotSame(actual, reader.parse(Sources.fromPath(parent), prefetch()));
+        assertModelEquals(
+                Model.newBuilder()
+                        .modelVersion("4.0.0")
+                        .groupId("org.example")
+                        .artifactId("parent")
+                        .version("1.0")
+                        .build(),
+                actual);
+    }
+
+    @Test
+    void testPrefetchDisabledByDefault(@TempDir Path dir) throws Exception {
+        Path parent = writeParentChain(dir, "modelVersion: 4.0.0\nid: org.example:parent:1.0\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        YamlModelReader reader = new YamlModelReader(tasks::add);
+
+        reader.parse(Sources.fromPath(dir.resolve("child/pom.yaml")), Map.of());
+        assertTrue(tasks.isEmpty());
+        assertNotSame(
+                reader.parse(Sources.fromPath(parent), Map.of()), reader.parse(Sources.fromPath(parent), Map.of()));
+    }
+
+    @Test
+    void testPrefetchSkippedForParsedParent(@TempDir Path dir) throws Exception {
+        Path parent = writeParentChain(dir, "modelVersion: 4.0.0\nid: org.example:parent:1.0\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        YamlModelReader reader = new YamlModelReader(tasks::add);
+
+        // reactor order: the parent is requested before its children
+        reader.parse(Sources.fromPath(parent), prefetch());
+        reader.parse(Sources.fromPath(dir.resolve("child/pom.yaml")), prefetch());
+
+        assertTrue(tasks.isEmpty());
+        assertNull(reader.pendingPrefetch(parent));
+    }
+
+    @Test
+    void testPrefetchCancelled(@TempDir Path dir) throws Exception {
+        Path parent = writeParentChain(dir, "modelVersion: 4.0.0\nid: org.example:parent:1.0\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        YamlModelReader reader = new YamlModelReader(tasks::add);
+
+        reader.parse(Sources.fromPath(dir.resolve("child/pom.yaml")), prefetch());
+        assertEquals(1, tasks.size());
+        reader.cancelPrefetches();
+        assertNull(reader.pendingPrefetch(parent));
+        tasks.poll().run();
+
+        // rewrite the parent without changing its size nor its modification time, so that only
+        // the cancellation prevents the stale prefetched model from being returned
+        FileTime lastModified = Files.getLastModifiedTime(parent);
+        Files.writeString(parent, "modelVersion: 4.0.0\nid: org.example:parent:2.0\n");
+        Files.setLastModifiedTime(parent, lastModified);
+
+        Model actual = reader.parse(Sources.fromPath(parent), Map.of());
+        assertEquals("2.0", actual.getVersion());
+    }
+
+    @Test
+    void testPrefetchCancelledWhileRunning(@TempDir Path dir) throws Exception {
+        Files.writeString(dir.resolve("pom.yaml"), "modelVersion: 4.0.0\nid: org.example:root:1.0\n");
+        Path parent = writeParentChain(
+                dir.resolve("parent"),
+                "modelVersion: 4.0.0\nparent: org.example:root:1.0\nid: org.example:parent:1.0\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        AtomicReference<YamlModelReader> reader = new AtomicReference<>();
+        reader.set(new YamlModelReader(task -> {
+            // the root prefetch is scheduled by the running parent prefetch
+            if (!tasks.isEmpty()) {
+                reader.get().cancelPrefetches();
+            }
+            tasks.add(task);
+        }));
+
+        reader.get().parse(Sources.fromPath(dir.resolve("parent/child/pom.yaml")), prefetch());
+        assertEquals(1, tasks.size());
+        tasks.peek().run();
+        assertEquals(2, tasks.size());
+        tasks.forEach(Runnable::run);
+
+        assertNull(reader.get().pendingPrefetch(parent));
+        assertNull(reader.get().pendingPrefetch(dir.resolve("pom.yaml")));
+        assertEquals(2, tasks.size());
+    }
+
+    @Test
+    @Timeout(10)
+    void testPrefetchCancelledWhileWaiting(@TempDir Path dir) throws Exception {
+        Path parent = writeParentChain(dir, "modelVersion: 4.0.0\nid: org.example:parent:1.0\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        YamlModelReader reader = new YamlModelReader(tasks::add);
+
+        reader.parse(Sources.fromPath(dir.resolve("child/pom.yaml")), prefetch());
+        CompletableFuture<?> prefetch = reader.pendingPrefetch(parent);
+        assertEquals(1, tasks.size());
+
+        AtomicReference<Model> result = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                result.set(reader.parse(Sources.fromPath(parent), Map.of()));
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        waiter.start();
+        // the waiter registers itself on the prefetch once it blocks on it
+        while (prefetch.getNumberOfDependents() == 0) {
+            Thread.sleep(10);
+        }
+
+        reader.cancelPrefetches();
+        waiter.join();
+
+        assertNull(failure.get());
+        assertEquals("parent", result.get().getArtifactId());
+    }
+
+    @Test
+    void testPrefetchStale(@TempDir Path dir) throws Exception {
+        Path parent = writeParentChain(dir, "modelVersion: 4.0.0\nid: org.example:parent:1.0\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        YamlModelReader reader = new YamlModelReader(tasks::add);
+
+        reader.parse(Sources.fromPath(dir.resolve("child/pom.yaml")), prefetch());
+        tasks.poll().run();
+        Files.writeString(parent, "modelVersion: 4.0.0\nid: org.example:parent:2.0\n");
+        Files.setLastModifiedTime(
+                parent, FileTime.fromMillis(Files.getLastModifiedTime(parent).toMillis() + 10_000));
+
+        Model actual = reader.parse(Sources.fromPath(parent), Map.of());
+        assertEquals("2.0", actual.getVersion());
+    }
+
+    @Test
+    void testPrefetchStaleWithinTimestampResolution(@TempDir Path dir) throws Exception {
+        Path parent = writeParentChain(dir, "modelVersion: 4.0.0\nid: org.example:parent:1.0\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        YamlModelReader reader = new YamlModelReader(tasks::add);
+
+        reader.parse(Sources.fromPath(dir.resolve("child/pom.yaml")), prefetch());
+        tasks.poll().run();
+        FileTime lastModified = Files.getLastModifiedTime(parent);
+        Files.writeString(parent, "modelVersion: 4.0.0\nid: org.example:parent:1.0.1\n");
+        Files.setLastModifiedTime(parent, lastModified);
+
+        Model actual = reader.parse(Sources.fromPath(parent), Map.of());
+        assertEquals("1.0.1", actual.getVersion());
+    }
+
+    @Test
+    void testPrefetchError(@TempDir Path dir) throws Exception {
+        Path parent = writeParentChain(dir, "modelVersion: 4.0.0\nid: invalid\n");
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        YamlModelReader reader = new YamlModelReader(tasks::add);
+
+        reader.parse(Sources.fromPath(dir.resolve("child/pom.yaml")), prefetch());
+        tasks.poll().run();
+
+        ModelParserException expected = assertThrows(
+                ModelParserException.class, () -> new YamlModelReader().parse(Sources.fromPath(parent), Map.of()));
+        ModelParserException actual = assertThrows(
+                ModelParserException.class, () -> reader.parse(Sources.fromPath(parent), prefetch()));
+        assertSame(expected.getClass(), actual.getClass());
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertThrows(ModelParserException.class, () -> reader.parse(Sources.fromPath(parent), prefetch()));
+    }
+
+    private Path writeParentChain(Path dir, String parentContent) throws IOException {
+        Files.createDirectories(dir.resolve("child"));
+        Path parent = Files.writeString(dir.resolve("pom.yaml"), parentContent);
+        Files.writeString(
+                dir.resolve("child/pom.yaml"),
+                "modelVersion: 4.0.0\nparent: org.example:parent:1.0\nartifactId: child\n");
+        return parent;
+    }
+
+    private Map<String, ?> prefetch() {
+        return Map.of(YamlModelReader.PREFETCH_PARENTS, true);
+    }
+
     private Model loadAndParseYaml(String filename) throws Exception {
         File yamlFile = new File("src/test/resources/" + filename);
         Yaml yaml = new Yaml();